@@ -0,0 +1,107 @@
+package com.iam.user.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single structured access log line per request.
+ * Server errors and requests slower than the threshold are always logged; everything else is sampled.
+ */
+@Component
+@Slf4j
+public class RequestLoggingFilter implements WebFilter {
+
+    /** Exchange attribute holding the cause of a failed request; set by exception handlers that resolve 5xx. */
+    public static final String ERROR_ATTRIBUTE = RequestLoggingFilter.class.getName() + ".ERROR";
+
+    /** Reported for cancelled requests that never committed a status (client closed request). */
+    static final int STATUS_CLIENT_CLOSED = 499;
+
+    private final double sampleRate;
+    private final long slowThresholdMs;
+
+    public RequestLoggingFilter(
+            @Value("${iam.logging.request.sample-rate}") double sampleRate,
+            @Value("${iam.logging.request.slow-threshold-ms}") long slowThresholdMs) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long startNanos = System.nanoTime();
+
+        return chain.filter(exchange)
+                .doOnError(ex -> exchange.getAttributes().put(ERROR_ATTRIBUTE, ex))
+                .doFinally(signal -> logRequest(exchange, startNanos, signal));
+    }
+
+    private void logRequest(ServerWebExchange exchange, long startNanos, SignalType signal) {
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        Throwable error = exchange.getAttribute(ERROR_ATTRIBUTE);
+        int statusCode = resolveStatus(exchange, error, signal);
+        boolean serverError = statusCode >= 500;
+        boolean slow = durationMs >= slowThresholdMs;
+
+        Level level;
+        if (serverError) {
+            level = Level.ERROR;
+        } else if (slow) {
+            level = Level.WARN;
+        } else if (isSampled()) {
+            level = Level.INFO;
+        } else {
+            return;
+        }
+
+        LoggingEventBuilder event = log.atLevel(level)
+                .addKeyValue("method", exchange.getRequest().getMethod())
+                .addKeyValue("path", exchange.getRequest().getPath().value())
+                .addKeyValue("status", statusCode)
+                .addKeyValue("durationMs", durationMs);
+        if (serverError && error != null) {
+            event.setCause(error);
+        }
+
+        if (signal == SignalType.CANCEL) {
+            event.log("request cancelled");
+        } else if (serverError) {
+            event.log("request failed");
+        } else if (slow) {
+            event.log("slow request");
+        } else {
+            event.log("request completed");
+        }
+    }
+
+    private int resolveStatus(ServerWebExchange exchange, Throwable error, SignalType signal) {
+        if (error instanceof ErrorResponse errorResponse) {
+            return errorResponse.getStatusCode().value();
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        if (status != null && (error == null || status.isError())) {
+            return status.value();
+        }
+        if (error != null) {
+            return 500;
+        }
+        return signal == SignalType.CANCEL ? STATUS_CLIENT_CLOSED : 200;
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
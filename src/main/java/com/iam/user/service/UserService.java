@@ -24,15 +24,18 @@ public class UserService {
     private final UserMappingService userMappingService;
 
     public Mono<UserResponse> createUser(CreateUserRequest request) {
-        log.info("Attempting to create user with email: {}", request.getEmail());
+        log.debug("Attempting to create user with email: {}", request.getEmail());
 
         return userValidationService.validateUserCreation(request)
                 .then(userMappingService.buildUserFromRequest(request))
                 .flatMap(userRepository::save)
                 .map(UserResponse::new)
-                .doOnSuccess(userResponse -> log.info("User created successfully with ID: {}", userResponse.getUserId()))
+                .doOnSuccess(userResponse -> log.debug("User created successfully with ID: {}", userResponse.getUserId()))
                 .onErrorMap(ex -> {
-                    log.error("Failed to create user with email: {}. Error: {}", request.getEmail(), ex.getMessage());
+                    if (!(ex instanceof CustomExceptions.ValidationException ||
+                            ex instanceof CustomExceptions.EmailAlreadyExistsException)) {
+                        log.debug("Failed to create user with email: {}. Error: {}", request.getEmail(), ex.getMessage());
+                    }
                     return ex;
                 });
     }
@@ -49,7 +52,7 @@ public class UserService {
                     if (ex instanceof CustomExceptions.UserNotFoundException) {
                         return ex;
                     }
-                    log.error("Error retrieving user by ID: {}. Error: {}", userId, ex.getMessage());
+                    log.debug("Error retrieving user by ID: {}. Error: {}", userId, ex.getMessage());
                     return new RuntimeException(Messages.INTERNAL_SERVER_ERROR, ex);
                 });
     }
@@ -66,7 +69,7 @@ public class UserService {
                     if (ex instanceof CustomExceptions.UserNotFoundException) {
                         return ex;
                     }
-                    log.error("Error retrieving user by email: {}. Error: {}", email, ex.getMessage());
+                    log.debug("Error retrieving user by email: {}. Error: {}", email, ex.getMessage());
                     return new RuntimeException(Messages.INTERNAL_SERVER_ERROR, ex);
                 });
     }
@@ -78,7 +81,7 @@ public class UserService {
                 .map(UserResponse::new)
                 .doOnComplete(() -> log.debug("Users retrieval completed for organization: {}", orgId))
                 .onErrorMap(ex -> {
-                    log.error("Error retrieving users for organization: {}. Error: {}", orgId, ex.getMessage());
+                    log.debug("Error retrieving users for organization: {}. Error: {}", orgId, ex.getMessage());
                     return new RuntimeException(Messages.INTERNAL_SERVER_ERROR, ex);
                 });
     }
@@ -90,13 +93,13 @@ public class UserService {
                 .map(UserResponse::new)
                 .doOnComplete(() -> log.debug("Users retrieval completed for department: {}", departmentId))
                 .onErrorMap(ex -> {
-                    log.error("Error retrieving users for department: {}. Error: {}", departmentId, ex.getMessage());
+                    log.debug("Error retrieving users for department: {}. Error: {}", departmentId, ex.getMessage());
                     return new RuntimeException(Messages.INTERNAL_SERVER_ERROR, ex);
                 });
     }
 
     public Mono<UserResponse> updateUser(UUID userId, UpdateUserRequest request) {
-        log.info("Attempting to update user: {}", userId);
+        log.debug("Attempting to update user: {}", userId);
 
         return userRepository.findById(userId)
                 .switchIfEmpty(Mono.error(new CustomExceptions.UserNotFoundException(
@@ -105,20 +108,20 @@ public class UserService {
                         .then(userMappingService.updateUserFieldsPartial(existingUser, request)))
                 .flatMap(userRepository::save)
                 .map(UserResponse::new)
-                .doOnSuccess(userResponse -> log.info("User updated successfully: {}", userId))
+                .doOnSuccess(userResponse -> log.debug("User updated successfully: {}", userId))
                 .onErrorMap(ex -> {
                     if (ex instanceof CustomExceptions.UserNotFoundException ||
                             ex instanceof CustomExceptions.ValidationException ||
                             ex instanceof CustomExceptions.EmailAlreadyExistsException) {
                         return ex;
                     }
-                    log.error("Error updating user: {}. Error: {}", userId, ex.getMessage());
+                    log.debug("Error updating user: {}. Error: {}", userId, ex.getMessage());
                     return new RuntimeException(Messages.INTERNAL_SERVER_ERROR, ex);
                 });
     }
 
     public Mono<Void> deleteUser(UUID userId) {
-        log.info("Attempting to delete user: {}", userId);
+        log.debug("Attempting to delete user: {}", userId);
 
         return userRepository.existsById(userId)
                 .flatMap(exists -> {
@@ -128,12 +131,12 @@ public class UserService {
                     }
                     return userRepository.deleteById(userId);
                 })
-                .doOnSuccess(unused -> log.info("User deleted successfully: {}", userId))
+                .doOnSuccess(unused -> log.debug("User deleted successfully: {}", userId))
                 .onErrorMap(ex -> {
                     if (ex instanceof CustomExceptions.UserNotFoundException) {
                         return ex;
                     }
-                    log.error("Error deleting user: {}. Error: {}", userId, ex.getMessage());
+                    log.debug("Error deleting user: {}. Error: {}", userId, ex.getMessage());
                     return new RuntimeException(Messages.INTERNAL_SERVER_ERROR, ex);
                 });
     }
@@ -0,0 +1,214 @@
+package com.iam.user.filter;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.OptionHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.logback.ColorConverter;
+import org.springframework.boot.logging.logback.ExtendedWhitespaceThrowableProxyConverter;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+/**
+ * Request throughput through {@link RequestLoggingFilter} with logging on versus off.
+ * Appenders write to a temp file so the output sink is the same for every case.
+ * Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+class RequestLoggingFilterBenchmark {
+
+    private static final int WARMUP_REQUESTS = 10_000;
+    private static final int MEASURED_REQUESTS = 20_000;
+    private static final int ROUNDS = 10;
+    private static final long SLOW_THRESHOLD_MS = 500;
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final Logger filterLogger = context.getLogger(RequestLoggingFilter.class);
+
+    private final RouterFunction<ServerResponse> route = RouterFunctions.route(
+            GET("/api/v1/users/{userId}"), request -> ServerResponse.ok().bodyValue("{}"));
+
+    @TempDir
+    Path logDir;
+
+    @AfterEach
+    void restoreLogger() {
+        filterLogger.detachAndStopAllAppenders();
+        filterLogger.setAdditive(true);
+        filterLogger.setLevel(null);
+    }
+
+    @Test
+    void loggingOverhead() throws IOException {
+        List<Case> cases = List.of(
+                new Case("filter off", null, Level.INFO, null),
+                new Case("filter on, level OFF", 1.0, Level.OFF, this::syncConsoleAppender),
+                new Case("sample 0.0, sync CONSOLE", 0.0, Level.INFO, this::syncConsoleAppender),
+                new Case("sample 1.0, sync CONSOLE", 1.0, Level.INFO, this::syncConsoleAppender),
+                new Case("sample 0.0, async JSON", 0.0, Level.INFO, this::asyncJsonAppender),
+                new Case("sample 0.01, async JSON", 0.01, Level.INFO, this::asyncJsonAppender),
+                new Case("sample 1.0, async JSON", 1.0, Level.INFO, this::asyncJsonAppender));
+
+        Map<Case, Long> bestNanos = new LinkedHashMap<>();
+        Map<Case, Long> linesWritten = new LinkedHashMap<>();
+        for (Case benchmarkCase : cases) {
+            run(benchmarkCase, WARMUP_REQUESTS);
+        }
+        // Interleave cases so JIT and heap drift affect all of them alike
+        for (int round = 0; round < ROUNDS; round++) {
+            for (Case benchmarkCase : cases) {
+                Path logFile = logDir.resolve("round-" + round + ".log");
+                long nanos = run(benchmarkCase, MEASURED_REQUESTS, logFile);
+                bestNanos.merge(benchmarkCase, nanos, Math::min);
+                linesWritten.put(benchmarkCase, Files.exists(logFile) ? countLines(logFile) : 0);
+                Files.deleteIfExists(logFile);
+            }
+        }
+
+        System.out.printf("%-28s %10s %10s %10s%n", "case", "req/s", "us/req", "logged");
+        bestNanos.forEach((benchmarkCase, nanos) -> {
+            double nanosPerRequest = (double) nanos / MEASURED_REQUESTS;
+            System.out.printf("%-28s %10.0f %10.2f %10d%n", benchmarkCase.name(),
+                    1e9 / nanosPerRequest, nanosPerRequest / 1_000, linesWritten.get(benchmarkCase));
+        });
+    }
+
+    private void run(Case benchmarkCase, int requests) {
+        run(benchmarkCase, requests, logDir.resolve("warmup.log"));
+    }
+
+    private long run(Case benchmarkCase, int requests, Path logFile) {
+        filterLogger.detachAndStopAllAppenders();
+        filterLogger.setAdditive(false);
+        filterLogger.setLevel(benchmarkCase.level());
+        if (benchmarkCase.appender() != null) {
+            filterLogger.addAppender(benchmarkCase.appender().apply(logFile));
+        }
+
+        WebTestClient.RouterFunctionSpec spec = WebTestClient.bindToRouterFunction(route);
+        if (benchmarkCase.sampleRate() != null) {
+            spec.webFilter(new RequestLoggingFilter(benchmarkCase.sampleRate(), SLOW_THRESHOLD_MS));
+        }
+        WebTestClient client = spec.build();
+
+        long start = System.nanoTime();
+        send(client, requests);
+        long elapsed = System.nanoTime() - start;
+
+        // Stopping flushes the async queue before the log file is counted
+        filterLogger.detachAndStopAllAppenders();
+        return elapsed;
+    }
+
+    private void send(WebTestClient client, int requests) {
+        String userId = UUID.randomUUID().toString();
+        for (int i = 0; i < requests; i++) {
+            client.get().uri("/api/v1/users/{userId}", userId)
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+    }
+
+    private Appender<ILoggingEvent> syncConsoleAppender(Path logFile) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(consolePattern());
+        encoder.start();
+        return fileAppender(logFile, encoder);
+    }
+
+    private Appender<ILoggingEvent> asyncJsonAppender(Path logFile) {
+        JsonEncoder encoder = new JsonEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        // Mirrors the prod ASYNC appender in logback-spring.xml
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(1638);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(fileAppender(logFile, encoder));
+        async.start();
+        return async;
+    }
+
+    // The non-prod CONSOLE pattern exactly as shipped in logback-spring.xml, with Boot's converters registered
+    private String consolePattern() {
+        @SuppressWarnings("unchecked")
+        Map<String, String> rules = (Map<String, String>) context.getObject(CoreConstants.PATTERN_RULE_REGISTRY);
+        if (rules == null) {
+            rules = new HashMap<>();
+            context.putObject(CoreConstants.PATTERN_RULE_REGISTRY, rules);
+        }
+        rules.put("clr", ColorConverter.class.getName());
+        rules.put("wEx", ExtendedWhitespaceThrowableProxyConverter.class.getName());
+
+        try (InputStream config = getClass().getResourceAsStream("/logback-spring.xml")) {
+            NodeList properties = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                    .parse(config)
+                    .getElementsByTagName("property");
+            for (int i = 0; i < properties.getLength(); i++) {
+                Element property = (Element) properties.item(i);
+                if ("CONSOLE_LOG_PATTERN".equals(property.getAttribute("name"))) {
+                    return OptionHelper.substVars(property.getAttribute("value"), context);
+                }
+            }
+        } catch (Exception ex) {
+            throw new IllegalStateException("Cannot read CONSOLE_LOG_PATTERN from logback-spring.xml", ex);
+        }
+        throw new IllegalStateException("CONSOLE_LOG_PATTERN not defined in logback-spring.xml");
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(Path logFile, Encoder<ILoggingEvent> encoder) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(logFile.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    private static long countLines(Path logFile) throws IOException {
+        try (Stream<String> lines = Files.lines(logFile)) {
+            return lines.count();
+        }
+    }
+
+    private record Case(String name, Double sampleRate, Level level,
+                        Function<Path, Appender<ILoggingEvent>> appender) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.iam.user.filter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLoggingFilterTest {
+
+    private static final long SLOW_THRESHOLD_MS = 50;
+
+    private final Logger filterLogger = (Logger) LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        filterLogger.addAppender(appender);
+        filterLogger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        filterLogger.detachAppender(appender);
+        filterLogger.setLevel(null);
+    }
+
+    @Test
+    void sampleRateZeroSuppressesSuccessfulRequests() {
+        run(new RequestLoggingFilter(0.0, SLOW_THRESHOLD_MS), exchange -> Mono.empty());
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void sampleRateOneLogsEverySuccessfulRequest() {
+        RequestLoggingFilter filter = new RequestLoggingFilter(1.0, SLOW_THRESHOLD_MS);
+
+        for (int i = 0; i < 10; i++) {
+            run(filter, exchange -> Mono.empty());
+        }
+
+        assertThat(appender.list).hasSize(10)
+                .allSatisfy(event -> {
+                    assertThat(event.getLevel()).isEqualTo(Level.INFO);
+                    assertThat(event.getMessage()).isEqualTo("request completed");
+                    assertThat(keyValue(event, "status")).isEqualTo(200);
+                    assertThat(keyValue(event, "path")).isEqualTo("/api/v1/users");
+                });
+    }
+
+    @Test
+    void unhandledErrorIsLoggedAsServerErrorWhenNotSampled() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        run(new RequestLoggingFilter(0.0, SLOW_THRESHOLD_MS), exchange -> Mono.error(failure));
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.ERROR);
+            assertThat(event.getMessage()).isEqualTo("request failed");
+            assertThat(keyValue(event, "status")).isEqualTo(500);
+            assertThat(event.getThrowableProxy().getMessage()).isEqualTo("boom");
+        });
+    }
+
+    @Test
+    void serverErrorStatusIsLoggedWhenNotSampled() {
+        run(new RequestLoggingFilter(0.0, SLOW_THRESHOLD_MS), exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            return Mono.empty();
+        });
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.ERROR);
+            assertThat(event.getThrowableProxy()).isNull();
+        });
+    }
+
+    @Test
+    void errorRecordedByExceptionHandlerIsAttachedToServerError() {
+        IllegalStateException failure = new IllegalStateException("handled");
+
+        run(new RequestLoggingFilter(0.0, SLOW_THRESHOLD_MS), exchange -> {
+            exchange.getAttributes().put(RequestLoggingFilter.ERROR_ATTRIBUTE, failure);
+            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            return Mono.empty();
+        });
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.ERROR);
+            assertThat(keyValue(event, "status")).isEqualTo(500);
+            assertThat(event.getThrowableProxy().getMessage()).isEqualTo("handled");
+        });
+    }
+
+    @Test
+    void clientErrorStatusIsTakenFromResponseStatusException() {
+        run(new RequestLoggingFilter(1.0, SLOW_THRESHOLD_MS),
+                exchange -> Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND)));
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.INFO);
+            assertThat(keyValue(event, "status")).isEqualTo(404);
+            assertThat(event.getThrowableProxy()).isNull();
+        });
+    }
+
+    @Test
+    void clientErrorIsSampledLikeSuccess() {
+        run(new RequestLoggingFilter(0.0, SLOW_THRESHOLD_MS),
+                exchange -> Mono.error(new ResponseStatusException(HttpStatus.METHOD_NOT_ALLOWED)));
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void slowRequestIsLoggedWhenNotSampled() {
+        run(new RequestLoggingFilter(0.0, SLOW_THRESHOLD_MS),
+                exchange -> Mono.fromRunnable(() ->
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(SLOW_THRESHOLD_MS + 20))));
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getMessage()).isEqualTo("slow request");
+            assertThat((Long) keyValue(event, "durationMs")).isGreaterThanOrEqualTo(SLOW_THRESHOLD_MS);
+        });
+    }
+
+    @Test
+    void cancelledSlowRequestIsLogged() {
+        RequestLoggingFilter filter = new RequestLoggingFilter(0.0, SLOW_THRESHOLD_MS);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users"));
+
+        StepVerifier.create(filter.filter(exchange, ignored -> Mono.never()))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(SLOW_THRESHOLD_MS + 20))
+                .thenCancel()
+                .verify();
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getMessage()).isEqualTo("request cancelled");
+            assertThat(keyValue(event, "status")).isEqualTo(RequestLoggingFilter.STATUS_CLIENT_CLOSED);
+        });
+    }
+
+    private void run(RequestLoggingFilter filter, WebFilterChain chain) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users"));
+
+        filter.filter(exchange, chain)
+                .onErrorComplete()
+                .block();
+    }
+
+    private static Object keyValue(ILoggingEvent event, String key) {
+        return event.getKeyValuePairs().stream()
+                .filter(pair -> pair.key.equals(key))
+                .map(pair -> pair.value)
+                .findFirst()
+                .orElse(null);
+    }
+}